@@ -0,0 +1,126 @@
+package net.aaavein.tidymods.client.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares filtering through {@link SearchIndex} with a plain scan over every entry, the way
+ * the mod list filters on each keystroke. Run with {@code ./gradlew runSearchBenchmark}.
+ */
+public final class SearchBenchmark {
+
+    private static final int[] SIZES = {100, 1_000, 10_000};
+    private static final String[] QUERIES = {"cr", "cre", "create", "storage drawers", "@mek", "#tech", "!botania", "zzq"};
+
+    private static final String[] SYLLABLES = {
+            "cre", "ate", "mek", "an", "ism", "farm", "ers", "deli", "ght", "stor", "age", "draw",
+            "ers", "iron", "chest", "jei", "wthit", "ae", "two", "botan", "ia", "ars", "nou", "veau",
+            "tin", "kers", "con", "struct", "sophis", "ticated", "back", "packs", "terra", "blender"
+    };
+    private static final String[] CATEGORIES = {
+            "agriculture", "building", "equipment", "functional", "library", "magic", "misc",
+            "mobs", "storage", "system", "technology", "utility", "worldgen"
+    };
+    private static final String[] LICENSES = {"mit", "lgpl-3.0", "all rights reserved", "gpl-3.0", "apache-2.0"};
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int ROUNDS = 5_000;
+
+    private static volatile int sink;
+
+    private SearchBenchmark() {}
+
+    public static void main(String[] args) {
+        System.out.printf(Locale.ROOT, "%8s  %-18s %12s %12s %9s%n", "mods", "query", "scan ns", "index ns", "matches");
+
+        for (int size : SIZES) {
+            SearchIndex index = new SearchIndex(entries(size));
+
+            for (String text : QUERIES) {
+                SearchQuery query = SearchQuery.compile(text);
+                int scanned = scan(query, index);
+                int indexed = lookup(query, index);
+                if (scanned != indexed) {
+                    throw new IllegalStateException("Index and scan disagree for '" + text + "'");
+                }
+
+                long scanNs = median(() -> scan(query, index));
+                long indexNs = median(() -> lookup(query, index));
+                System.out.printf(Locale.ROOT, "%8d  %-18s %12d %12d %9d%n", size, text, scanNs, indexNs, scanned);
+            }
+        }
+    }
+
+    private static int scan(SearchQuery query, SearchIndex index) {
+        int found = 0;
+        for (SearchEntry entry : index.entries()) {
+            if (query.matches(entry)) found++;
+        }
+        return found;
+    }
+
+    private static int lookup(SearchQuery query, SearchIndex index) {
+        int[] candidates = query.candidates(index);
+        if (candidates == null) return scan(query, index);
+
+        int found = 0;
+        for (int ordinal : candidates) {
+            if (query.matches(index.get(ordinal))) found++;
+        }
+        return found;
+    }
+
+    private static long median(Run run) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += run.run();
+        }
+
+        long[] times = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += run.run();
+            times[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(times);
+        return times[ROUNDS / 2];
+    }
+
+    private static List<SearchEntry> entries(int size) {
+        Random random = new Random(size);
+        List<SearchEntry> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            String name = word(random) + " " + word(random);
+            String id = name.replace(' ', '_') + (i % 7 == 0 ? "_" + i : "");
+            String authors = word(random) + ", " + word(random);
+            entries.add(new SearchEntry(
+                    null,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    name,
+                    id,
+                    authors,
+                    LICENSES[random.nextInt(LICENSES.length)],
+                    ""
+            ));
+        }
+        return entries;
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int parts = 2 + random.nextInt(2);
+        for (int i = 0; i < parts; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    @FunctionalInterface
+    private interface Run {
+        int run();
+    }
+}
@@ -1,5 +1,6 @@
 package net.aaavein.tidymods;
 
+import net.aaavein.tidymods.client.CategoryPackLoader;
 import net.aaavein.tidymods.client.ModDataManager;
 import net.aaavein.tidymods.config.TidyModsConfig;
 import net.aaavein.tidymods.data.ModData;
@@ -11,7 +12,7 @@ import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.config.ModConfig;
 import net.neoforged.fml.event.config.ModConfigEvent;
-import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
 import net.neoforged.neoforge.client.gui.ConfigurationScreen;
 import net.neoforged.neoforge.client.gui.IConfigScreenFactory;
 import org.slf4j.Logger;
@@ -29,12 +30,25 @@ public class TidyMods {
         container.registerConfig(ModConfig.Type.CLIENT, TidyModsConfig.SPEC, "tidymods.toml");
         container.registerExtensionPoint(IConfigScreenFactory.class, ConfigurationScreen::new);
         bus.addListener(this::onConfigReload);
+        TidyModsConfig.addListener(ModDataManager::reloadCategories);
     }
 
     private void onConfigReload(ModConfigEvent.Reloading event) {
         if (event.getConfig().getSpec() == TidyModsConfig.SPEC) {
-            TidyModsConfig.clearCaches();
-            ModDataManager.reloadCategories();
+            TidyModsConfig.reload();
+        }
+    }
+
+    public static void printUncategorized() {
+        List<ModData> uncategorized = ModDataManager.uncategorized();
+        if (uncategorized.isEmpty()) {
+            LOG.info("All mods have categories assigned.");
+            return;
+        }
+
+        LOG.info("Uncategorized mods ({}):", uncategorized.size());
+        for (ModData mod : uncategorized) {
+            LOG.info("  - {}", mod.modId());
         }
     }
 
@@ -42,19 +56,8 @@ public class TidyMods {
     public static class ClientSetup {
 
         @SubscribeEvent
-        public static void onClientSetup(FMLClientSetupEvent event) {
-            if (!TidyModsConfig.printUncategorized()) return;
-
-            List<ModData> uncategorized = ModDataManager.uncategorized();
-            if (uncategorized.isEmpty()) {
-                LOG.info("All mods have categories assigned.");
-                return;
-            }
-
-            LOG.info("Uncategorized mods ({}):", uncategorized.size());
-            for (ModData mod : uncategorized) {
-                LOG.info("  - {}", mod.modId());
-            }
+        public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
+            event.registerReloadListener(new CategoryPackLoader());
         }
     }
 }
\ No newline at end of file
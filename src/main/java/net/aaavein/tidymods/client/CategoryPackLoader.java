@@ -0,0 +1,73 @@
+package net.aaavein.tidymods.client;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import net.aaavein.tidymods.TidyMods;
+import net.aaavein.tidymods.config.TidyModsConfig;
+import net.minecraft.resources.FileToIdConverter;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.GsonHelper;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.neoforged.fml.ModList;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+// Reads assets/<namespace>/tidymods/categories/*.json, each mapping a category to a list of mod ids.
+public final class CategoryPackLoader extends SimplePreparableReloadListener<Map<String, String>> {
+
+    private static final FileToIdConverter LISTER = FileToIdConverter.json("tidymods/categories");
+
+    private boolean reported = false;
+
+    @Override
+    @NotNull
+    protected Map<String, String> prepare(@NotNull ResourceManager manager, @NotNull ProfilerFiller profiler) {
+        ModList mods = ModList.get();
+        Map<String, String> assignments = new HashMap<>();
+        int total = 0;
+
+        for (Map.Entry<ResourceLocation, List<Resource>> file : LISTER.listMatchingResourceStacks(manager).entrySet()) {
+            for (Resource resource : file.getValue()) {
+                try (Reader reader = resource.openAsReader()) {
+                    JsonObject json = GsonHelper.parse(reader);
+                    for (Map.Entry<String, JsonElement> category : json.entrySet()) {
+                        String name = category.getKey().trim().toLowerCase();
+                        for (JsonElement element : GsonHelper.convertToJsonArray(category.getValue(), name)) {
+                            String modId = GsonHelper.convertToString(element, name).trim().toLowerCase();
+                            total++;
+                            if (!name.isEmpty() && mods.isLoaded(modId)) {
+                                assignments.put(modId, name);
+                            }
+                        }
+                    }
+                } catch (Exception e) {
+                    TidyMods.LOG.warn("Failed to read category pack {} from {}", file.getKey(), resource.sourcePackId(), e);
+                }
+            }
+        }
+
+        TidyMods.LOG.debug("Retained {} of {} category pack assignments", assignments.size(), total);
+        return Map.copyOf(assignments);
+    }
+
+    @Override
+    protected void apply(
+            @NotNull Map<String, String> assignments,
+            @NotNull ResourceManager manager,
+            @NotNull ProfilerFiller profiler
+    ) {
+        CompletableFuture<Void> rebuilt = ModDataManager.setPackCategories(assignments);
+        if (!reported && TidyModsConfig.printUncategorized()) {
+            reported = true;
+            rebuilt.thenRun(TidyMods::printUncategorized);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package net.aaavein.tidymods.client;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import org.lwjgl.system.MemoryUtil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class ImageLoader {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int PNG_HEADER_SIZE = 24;
+    private static final int MAX_DIMENSION = 4096;
+    private static final int MAX_FILE_SIZE = 16 * 1024 * 1024;
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 4;
+
+    private static final Queue<ByteBuffer> POOL = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong POOLED_BYTES = new AtomicLong();
+
+    private ImageLoader() {}
+
+    static NativeImage read(Path file) throws IOException {
+        long known = Files.size(file);
+        if (known > MAX_FILE_SIZE) {
+            throw new IOException("Image too large: " + known + " bytes");
+        }
+
+        ByteBuffer buf = acquire(known > 0 ? (int) known + 1 : DEFAULT_BUFFER_SIZE);
+        try {
+            try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+                while (channel.read(buf) != -1) {
+                    if (!buf.hasRemaining()) {
+                        if (buf.capacity() >= MAX_FILE_SIZE) {
+                            throw new IOException("Image too large: " + file);
+                        }
+                        int position = buf.position();
+                        buf = MemoryUtil.memRealloc(buf, Math.min(buf.capacity() * 2, MAX_FILE_SIZE));
+                        buf.position(position);
+                    }
+                }
+            }
+            buf.flip();
+            checkHeader(buf);
+            return NativeImage.read(NativeImage.Format.RGBA, buf);
+        } finally {
+            release(buf);
+        }
+    }
+
+    static NativeImage thumbnail(NativeImage src, int size, boolean smooth) {
+        int srcW = src.getWidth();
+        int srcH = src.getHeight();
+        if (srcW <= size && srcH <= size) {
+            return src;
+        }
+
+        int w = Math.min(srcW, size);
+        int h = Math.min(srcH, size);
+        NativeImage dst = new NativeImage(w, h, false);
+
+        try (src) {
+            for (int y = 0; y < h; y++) {
+                int y0 = y * srcH / h;
+                int y1 = Math.max(y0 + 1, (y + 1) * srcH / h);
+
+                for (int x = 0; x < w; x++) {
+                    int x0 = x * srcW / w;
+                    int x1 = Math.max(x0 + 1, (x + 1) * srcW / w);
+
+                    if (smooth) {
+                        dst.setPixelRGBA(x, y, boxFilter(src, x0, y0, x1, y1));
+                    } else {
+                        dst.setPixelRGBA(x, y, src.getPixelRGBA((x0 + x1) / 2, (y0 + y1) / 2));
+                    }
+                }
+            }
+        }
+
+        return dst;
+    }
+
+    private static int boxFilter(NativeImage src, int x0, int y0, int x1, int y1) {
+        long a = 0;
+        long c0 = 0;
+        long c1 = 0;
+        long c2 = 0;
+
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                int pixel = src.getPixelRGBA(x, y);
+                int alpha = pixel >>> 24;
+                a += alpha;
+                c0 += (long) (pixel & 0xFF) * alpha;
+                c1 += (long) ((pixel >> 8) & 0xFF) * alpha;
+                c2 += (long) ((pixel >> 16) & 0xFF) * alpha;
+            }
+        }
+
+        if (a == 0) {
+            return 0;
+        }
+
+        int count = (x1 - x0) * (y1 - y0);
+        return (int) (a / count) << 24
+                | (int) (c2 / a) << 16
+                | (int) (c1 / a) << 8
+                | (int) (c0 / a);
+    }
+
+    static long pooledBytes() {
+        return POOLED_BYTES.get();
+    }
+
+    private static void checkHeader(ByteBuffer buf) throws IOException {
+        if (buf.remaining() < PNG_HEADER_SIZE) {
+            throw new IOException("Not a PNG image");
+        }
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            if (buf.get(i) != PNG_SIGNATURE[i]) {
+                throw new IOException("Not a PNG image");
+            }
+        }
+
+        ByteBuffer header = buf.duplicate().order(ByteOrder.BIG_ENDIAN);
+        int width = header.getInt(16);
+        int height = header.getInt(20);
+        if (width <= 0 || height <= 0 || width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new IOException("Unsupported image size " + width + "x" + height);
+        }
+    }
+
+    private static ByteBuffer acquire(int size) {
+        ByteBuffer buf = POOL.poll();
+        if (buf == null) {
+            return MemoryUtil.memAlloc(Math.max(size, DEFAULT_BUFFER_SIZE));
+        }
+        POOLED_BYTES.addAndGet(-buf.capacity());
+        if (buf.capacity() < size) {
+            buf = MemoryUtil.memRealloc(buf, size);
+        }
+        buf.clear();
+        return buf;
+    }
+
+    private static void release(ByteBuffer buf) {
+        if (buf.capacity() <= MAX_FILE_SIZE / 4 && POOL.size() < MAX_POOLED_BUFFERS) {
+            buf.clear();
+            POOLED_BYTES.addAndGet(buf.capacity());
+            POOL.offer(buf);
+        } else {
+            MemoryUtil.memFree(buf);
+        }
+    }
+}
@@ -2,134 +2,202 @@ package net.aaavein.tidymods.client;
 
 import com.mojang.blaze3d.platform.NativeImage;
 import net.aaavein.tidymods.TidyMods;
-import net.aaavein.tidymods.config.TidyModsConfig;
+import net.aaavein.tidymods.client.search.SearchIndex;
 import net.aaavein.tidymods.data.MinecraftData;
 import net.aaavein.tidymods.data.ModData;
 import net.aaavein.tidymods.data.NeoForgeData;
+import net.minecraft.Util;
 import net.neoforged.fml.ModList;
+import net.neoforged.neoforgespi.language.IModFileInfo;
+import net.neoforged.neoforgespi.locating.IModFile;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 public final class ModDataManager {
 
-    private static final Map<String, ModData> MODS = new HashMap<>();
-    private static final Map<String, String> CATEGORY_OVERRIDES = new HashMap<>();
+    private static final AtomicReference<ModModel> MODEL = new AtomicReference<>();
+    private static final AtomicInteger REVISION = new AtomicInteger();
+    private static final Queue<PendingUpload> PENDING_UPLOADS = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong PENDING_BYTES = new AtomicLong();
 
-    private static boolean modsLoaded = false;
-    private static boolean categoriesLoaded = false;
+    private static volatile Map<String, String> packCategories = Map.of();
+    private static CompletableFuture<Void> rebuild = CompletableFuture.completedFuture(null);
 
     private ModDataManager() {}
 
     public static Collection<ModData> all() {
-        loadMods();
-        return MODS.values();
+        return model().mods();
+    }
+
+    public static SearchIndex searchIndex() {
+        return model().searchIndex();
     }
 
     public static String category(String modId) {
-        loadMods();
-        loadCategories();
-        String id = modId.toLowerCase();
-
-        String override = CATEGORY_OVERRIDES.get(id);
-        if (override != null) return override;
-
-        ModData mod = MODS.get(id);
-        if (mod != null) {
-            String declared = mod.declaredCategory();
-            if (declared != null && !declared.isBlank()) {
-                return declared.toLowerCase();
-            }
-        }
+        return model().category(modId.toLowerCase());
+    }
 
-        String builtin = BuiltInCategories.get(id);
-        if (builtin != null) return builtin;
+    public static boolean hasCategory(String modId) {
+        return model().hasCategory(modId.toLowerCase());
+    }
 
-        return TidyModsConfig.defaultCategory();
+    public static boolean isHidden(String modId) {
+        return model().isHidden(modId.toLowerCase());
     }
 
-    public static boolean hasCategory(String modId) {
-        loadMods();
-        loadCategories();
-        String id = modId.toLowerCase();
+    public static List<ModData> uncategorized() {
+        return model().uncategorized();
+    }
 
-        if (CATEGORY_OVERRIDES.containsKey(id)) return true;
+    public static int revision() {
+        return REVISION.get();
+    }
 
-        ModData mod = MODS.get(id);
-        if (mod != null) {
-            String declared = mod.declaredCategory();
-            if (declared != null && !declared.isBlank()) {
-                return true;
+    // Rebuilds are chained so a slower earlier rebuild can never publish over a later one.
+    public static synchronized CompletableFuture<Void> reloadCategories() {
+        rebuild = rebuild.thenRunAsync(() -> {
+            ModModel current = MODEL.get();
+            if (current != null) {
+                publish(current.rebuild(packCategories));
             }
-        }
+        }, Util.backgroundExecutor()).exceptionally(e -> {
+            TidyMods.LOG.error("Failed to rebuild mod categories", e);
+            return null;
+        });
+        return rebuild;
+    }
 
-        return BuiltInCategories.has(id);
+    public static CompletableFuture<Void> setPackCategories(Map<String, String> assignments) {
+        packCategories = assignments;
+        return reloadCategories();
     }
 
-    public static List<ModData> uncategorized() {
-        loadMods();
-        loadCategories();
+    // The callback runs on the render thread and receives null if the image could not be read.
+    // Cancelling the returned future before the callback runs closes the image instead.
+    public static CompletableFuture<NativeImage> loadImage(
+            String modId,
+            String path,
+            int size,
+            boolean smooth,
+            Consumer<NativeImage> callback
+    ) {
+        CompletableFuture<NativeImage> load = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(
+                () -> load.isCancelled() ? null : readImage(modId, path, size, smooth),
+                Util.backgroundExecutor()
+        ).whenComplete((img, e) -> {
+            synchronized (PENDING_UPLOADS) {
+                if (load.isCancelled()) {
+                    if (img != null) img.close();
+                    return;
+                }
+                PendingUpload upload = new PendingUpload(load, img, callback);
+                PENDING_BYTES.addAndGet(upload.bytes());
+                PENDING_UPLOADS.add(upload);
+            }
+        });
+        return load;
+    }
+
+    public static long logoNativeBytes() {
+        return PENDING_BYTES.get() + ImageLoader.pooledBytes();
+    }
 
-        List<ModData> result = new ArrayList<>();
-        for (ModData mod : MODS.values()) {
-            if (!hasCategory(mod.modId())) {
-                result.add(mod);
+    public static String logoSource(String modId, String path) {
+        IModFileInfo info = ModList.get().getModFileById(modId);
+        if (info == null) {
+            return modId + "!" + path;
+        }
+        return info.getFile().getFilePath() + "!" + path;
+    }
+
+    public static void uploadPending(int budget) {
+        for (int i = 0; i < budget; i++) {
+            PendingUpload upload = PENDING_UPLOADS.poll();
+            if (upload == null) return;
+
+            PENDING_BYTES.addAndGet(-upload.bytes());
+            if (upload.load.complete(upload.img)) {
+                upload.callback.accept(upload.img);
+            } else if (upload.img != null) {
+                upload.img.close();
             }
         }
-        return result;
     }
 
-    public static void reloadCategories() {
-        categoriesLoaded = false;
-        loadCategories();
+    // Loads still decoding must be cancelled first, so none of them can queue an upload afterwards.
+    public static void discardPendingUploads() {
+        synchronized (PENDING_UPLOADS) {
+            PendingUpload upload;
+            while ((upload = PENDING_UPLOADS.poll()) != null) {
+                PENDING_BYTES.addAndGet(-upload.bytes());
+                upload.load.cancel(false);
+                if (upload.img != null) upload.img.close();
+            }
+        }
     }
 
-    public static void loadImage(String modId, String path, Consumer<NativeImage> callback) {
+    @Nullable
+    private static NativeImage readImage(String modId, String path, int size, boolean smooth) {
         try {
-            Path file = ModList.get().getModFileById(modId).getFile().findResource(path);
+            IModFile modFile = ModList.get().getModFileById(modId).getFile();
+            ThumbnailCache.Key key = ThumbnailCache.key(modId, modFile.getFilePath(), path, size, smooth);
+
+            NativeImage cached = ThumbnailCache.read(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            Path file = modFile.findResource(path);
             if (Files.exists(file)) {
-                try (InputStream in = Files.newInputStream(file)) {
-                    callback.accept(NativeImage.read(in));
-                }
+                NativeImage img = ImageLoader.thumbnail(ImageLoader.read(file), size, smooth);
+                ThumbnailCache.write(key, img);
+                return img;
             }
         } catch (Exception e) {
             TidyMods.LOG.debug("Failed to load image {} from {}", path, modId);
         }
+        return null;
     }
 
-    private static void loadMods() {
-        if (modsLoaded) return;
-        modsLoaded = true;
+    private static ModModel model() {
+        ModModel current = MODEL.get();
+        if (current != null) return current;
 
-        ModList.get().getMods().forEach(info -> {
-            String id = info.getModId().toLowerCase();
-            MODS.put(id, new NeoForgeData(info));
-        });
-        MODS.put("minecraft", new MinecraftData());
+        List<ModData> mods = new ArrayList<>();
+        ModList.get().getMods().forEach(info -> mods.add(new NeoForgeData(info)));
+        mods.add(new MinecraftData());
+
+        ModModel built = ModModel.build(mods, packCategories);
+        return MODEL.compareAndSet(null, built) ? built : MODEL.get();
     }
 
-    private static void loadCategories() {
-        if (categoriesLoaded) return;
-        categoriesLoaded = true;
+    private static void publish(ModModel model) {
+        MODEL.set(model);
+        REVISION.incrementAndGet();
+    }
 
-        CATEGORY_OVERRIDES.clear();
+    private record PendingUpload(
+            CompletableFuture<NativeImage> load,
+            @Nullable NativeImage img,
+            Consumer<NativeImage> callback
+    ) {
 
-        for (String entry : TidyModsConfig.categoryOverrides()) {
-            String[] parts = entry.split(";", 2);
-            if (parts.length == 2) {
-                String id = parts[0].trim().toLowerCase();
-                String cat = parts[1].trim().toLowerCase();
-                if (!id.isEmpty() && !cat.isEmpty()) {
-                    CATEGORY_OVERRIDES.put(id, cat);
-                }
-            }
+        long bytes() {
+            return img != null ? (long) img.getWidth() * img.getHeight() * 4 : 0;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,137 @@
+package net.aaavein.tidymods.client;
+
+import it.unimi.dsi.fastutil.chars.Char2ObjectOpenHashMap;
+import net.aaavein.tidymods.TidyMods;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// When several rules match, an exact id wins, then the most literal characters, then the rule listed last.
+final class ModIdMatcher<T> {
+
+    private final String name;
+    private final Map<String, Rule<T>> exact = new HashMap<>();
+    private final Node<T> prefixes = new Node<>();
+    private final Node<T> suffixes = new Node<>();
+    private final List<Glob<T>> globs = new ArrayList<>();
+    private int size = 0;
+
+    ModIdMatcher(String name) {
+        this.name = name;
+    }
+
+    void add(String pattern, T value) {
+        String glob = pattern.trim().toLowerCase();
+        if (glob.isEmpty()) return;
+
+        int first = glob.indexOf('*');
+        int last = glob.lastIndexOf('*');
+        Rule<T> rule = new Rule<>(glob, value, size++, first < 0, glob.length() - countWildcards(glob));
+
+        if (first < 0) {
+            exact.put(glob, rule);
+        } else if (first == last && first == glob.length() - 1) {
+            insert(prefixes, glob.substring(0, first), false, rule);
+        } else if (first == last && first == 0) {
+            insert(suffixes, glob.substring(1), true, rule);
+        } else {
+            globs.add(new Glob<>(compile(glob), rule));
+        }
+    }
+
+    @Nullable
+    T match(String id) {
+        List<Rule<T>> matches = new ArrayList<>(1);
+
+        Rule<T> exactRule = exact.get(id);
+        if (exactRule != null) matches.add(exactRule);
+        collect(prefixes, id, false, matches);
+        collect(suffixes, id, true, matches);
+        for (Glob<T> glob : globs) {
+            if (glob.pattern.matcher(id).matches()) matches.add(glob.rule);
+        }
+
+        if (matches.isEmpty()) return null;
+
+        Rule<T> best = matches.get(0);
+        for (int i = 1; i < matches.size(); i++) {
+            if (matches.get(i).beats(best)) best = matches.get(i);
+        }
+
+        if (matches.size() > 1) {
+            List<String> patterns = new ArrayList<>(matches.size());
+            for (Rule<T> rule : matches) patterns.add(rule.pattern);
+            TidyMods.LOG.debug("{} rules {} all match {}, using {}", name, patterns, id, best.pattern);
+        }
+        return best.value;
+    }
+
+    private static <T> void insert(Node<T> root, String key, boolean reverse, Rule<T> rule) {
+        Node<T> node = root;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(reverse ? key.length() - 1 - i : i);
+            Node<T> child = node.children.get(c);
+            if (child == null) {
+                child = new Node<>();
+                node.children.put(c, child);
+            }
+            node = child;
+        }
+        if (node.rule == null || rule.beats(node.rule)) {
+            node.rule = rule;
+        }
+    }
+
+    private static <T> void collect(Node<T> root, String id, boolean reverse, List<Rule<T>> matches) {
+        Node<T> node = root;
+        for (int i = 0; ; i++) {
+            if (node.rule != null) matches.add(node.rule);
+            if (i == id.length()) return;
+
+            node = node.children.get(id.charAt(reverse ? id.length() - 1 - i : i));
+            if (node == null) return;
+        }
+    }
+
+    private static Pattern compile(String glob) {
+        StringBuilder regex = new StringBuilder();
+        int start = 0;
+        for (int star = glob.indexOf('*'); star >= 0; star = glob.indexOf('*', start)) {
+            if (star > start) regex.append(Pattern.quote(glob.substring(start, star)));
+            regex.append(".*");
+            start = star + 1;
+        }
+        if (start < glob.length()) regex.append(Pattern.quote(glob.substring(start)));
+        return Pattern.compile(regex.toString());
+    }
+
+    private static int countWildcards(String glob) {
+        int count = 0;
+        for (int i = 0; i < glob.length(); i++) {
+            if (glob.charAt(i) == '*') count++;
+        }
+        return count;
+    }
+
+    private record Rule<T>(String pattern, T value, int index, boolean exact, int literals) {
+
+        boolean beats(Rule<T> other) {
+            if (exact != other.exact) return exact;
+            if (literals != other.literals) return literals > other.literals;
+            return index > other.index;
+        }
+    }
+
+    private record Glob<T>(Pattern pattern, Rule<T> rule) {}
+
+    private static final class Node<T> {
+
+        private final Char2ObjectOpenHashMap<Node<T>> children = new Char2ObjectOpenHashMap<>();
+        @Nullable
+        private Rule<T> rule;
+    }
+}
@@ -0,0 +1,171 @@
+package net.aaavein.tidymods.client;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.aaavein.tidymods.client.search.SearchEntry;
+import net.aaavein.tidymods.client.search.SearchIndex;
+import net.aaavein.tidymods.config.TidyModsConfig;
+import net.aaavein.tidymods.data.ModData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+// Never modified after construction, so a published model can be read from any thread.
+final class ModModel {
+
+    private final List<ModData> mods;
+    private final Object2IntOpenHashMap<String> ordinals;
+    private final Map<String, String> builtIn;
+    private final Map<String, String> packs;
+    private final ModIdMatcher<String> overrides;
+    private final ModIdMatcher<Boolean> hiddenRules;
+    private final String[] categories;
+    private final BitSet categorized;
+    private final BitSet hidden;
+    private final String defaultCategory;
+    private final SearchIndex searchIndex;
+
+    private ModModel(
+            List<ModData> mods,
+            Object2IntOpenHashMap<String> ordinals,
+            Map<String, String> builtIn,
+            Map<String, String> packs
+    ) {
+        this.mods = mods;
+        this.ordinals = ordinals;
+        this.builtIn = builtIn;
+        this.packs = packs;
+        this.overrides = parseOverrides();
+        this.hiddenRules = parseHidden();
+        this.categories = new String[mods.size()];
+        this.categorized = new BitSet(mods.size());
+        this.hidden = new BitSet(mods.size());
+        this.defaultCategory = TidyModsConfig.defaultCategory();
+
+        List<SearchEntry> entries = new ArrayList<>(mods.size());
+        for (int i = 0; i < categories.length; i++) {
+            ModData mod = mods.get(i);
+            String id = mod.modId().toLowerCase();
+            if (hiddenRules.match(id) != null) {
+                hidden.set(i);
+            }
+
+            String category = resolve(id, mod);
+            if (category != null) {
+                categorized.set(i);
+            } else {
+                category = defaultCategory;
+            }
+            categories[i] = category;
+            entries.add(SearchEntry.of(mod, category));
+        }
+        this.searchIndex = new SearchIndex(entries);
+    }
+
+    static ModModel build(List<ModData> mods, Map<String, String> packs) {
+        List<ModData> unique = new ArrayList<>(mods.size());
+        Object2IntOpenHashMap<String> ordinals = new Object2IntOpenHashMap<>(mods.size());
+        ordinals.defaultReturnValue(-1);
+
+        for (ModData mod : mods) {
+            String id = mod.modId().toLowerCase();
+            int ordinal = ordinals.getInt(id);
+            if (ordinal >= 0) {
+                unique.set(ordinal, mod);
+            } else {
+                ordinals.put(id, unique.size());
+                unique.add(mod);
+            }
+        }
+
+        Map<String, String> builtIn = BuiltInCategories.retain(ordinals.keySet());
+        return new ModModel(List.copyOf(unique), ordinals, builtIn, packs);
+    }
+
+    ModModel rebuild(Map<String, String> packs) {
+        return new ModModel(mods, ordinals, builtIn, packs);
+    }
+
+    List<ModData> mods() {
+        return mods;
+    }
+
+    SearchIndex searchIndex() {
+        return searchIndex;
+    }
+
+    String category(String id) {
+        int ordinal = ordinals.getInt(id);
+        if (ordinal >= 0) return categories[ordinal];
+
+        String category = resolve(id, null);
+        return category != null ? category : defaultCategory;
+    }
+
+    boolean hasCategory(String id) {
+        int ordinal = ordinals.getInt(id);
+        if (ordinal >= 0) return categorized.get(ordinal);
+
+        return resolve(id, null) != null;
+    }
+
+    boolean isHidden(String id) {
+        int ordinal = ordinals.getInt(id);
+        if (ordinal >= 0) return hidden.get(ordinal);
+
+        return hiddenRules.match(id) != null;
+    }
+
+    List<ModData> uncategorized() {
+        List<ModData> result = new ArrayList<>();
+        for (int i = categorized.nextClearBit(0); i < mods.size(); i = categorized.nextClearBit(i + 1)) {
+            result.add(mods.get(i));
+        }
+        return result;
+    }
+
+    // Precedence: config overrides, declared modCategory, category packs, built-in table.
+    @Nullable
+    private String resolve(String id, @Nullable ModData mod) {
+        String override = overrides.match(id);
+        if (override != null) return override;
+
+        if (mod != null) {
+            String declared = mod.declaredCategory();
+            if (declared != null && !declared.isBlank()) {
+                return declared.toLowerCase();
+            }
+        }
+
+        String pack = packs.get(id);
+        if (pack != null) return pack;
+
+        return builtIn.get(id);
+    }
+
+    private static ModIdMatcher<String> parseOverrides() {
+        ModIdMatcher<String> overrides = new ModIdMatcher<>("category_overrides");
+
+        for (String entry : TidyModsConfig.categoryOverrides()) {
+            String[] parts = entry.split(";", 2);
+            if (parts.length == 2) {
+                String cat = parts[1].trim().toLowerCase();
+                if (!cat.isEmpty()) {
+                    overrides.add(parts[0], cat);
+                }
+            }
+        }
+
+        return overrides;
+    }
+
+    private static ModIdMatcher<Boolean> parseHidden() {
+        ModIdMatcher<Boolean> hidden = new ModIdMatcher<>("hidden_mods");
+        for (String modId : TidyModsConfig.hiddenMods()) {
+            hidden.add(modId, Boolean.TRUE);
+        }
+        return hidden;
+    }
+}
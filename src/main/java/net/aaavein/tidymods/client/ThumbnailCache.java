@@ -0,0 +1,126 @@
+package net.aaavein.tidymods.client;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import net.aaavein.tidymods.TidyMods;
+import net.neoforged.fml.loading.FMLPaths;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+final class ThumbnailCache {
+
+    private static final Path DIR = FMLPaths.GAMEDIR.get().resolve(TidyMods.ID).resolve("cache");
+    private static final int MAGIC = 0x544D5443;
+    private static final int HEADER_SIZE = 4 + 8 + 8 + 4 + 1 + 2 + 2;
+    private static final int MAX_FILE_SIZE = HEADER_SIZE + 256 * 256 * 4;
+
+    private ThumbnailCache() {}
+
+    static Key key(String modId, Path modFile, String path, int size, boolean smooth) throws IOException {
+        return new Key(
+                modId + "_" + size + ".rgba",
+                Files.isDirectory(modFile) ? 0 : Files.size(modFile),
+                Files.getLastModifiedTime(modFile).toMillis(),
+                path.hashCode(),
+                smooth
+        );
+    }
+
+    @Nullable
+    static NativeImage read(Key key) {
+        Path file = DIR.resolve(key.fileName());
+        if (!Files.isRegularFile(file)) return null;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > MAX_FILE_SIZE) return null;
+
+            ByteBuffer buf = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+            while (buf.hasRemaining()) {
+                if (channel.read(buf) < 0) return null;
+            }
+            buf.flip();
+
+            if (buf.getInt() != MAGIC
+                    || buf.getLong() != key.fileSize()
+                    || buf.getLong() != key.lastModified()
+                    || buf.getInt() != key.pathHash()
+                    || (buf.get() != 0) != key.smooth()) {
+                return null;
+            }
+
+            int w = buf.getShort() & 0xFFFF;
+            int h = buf.getShort() & 0xFFFF;
+            if (w == 0 || h == 0 || buf.remaining() != w * h * 4) return null;
+
+            IntBuffer pixels = buf.asIntBuffer();
+            NativeImage img = new NativeImage(w, h, false);
+            for (int y = 0; y < h; y++) {
+                for (int x = 0; x < w; x++) {
+                    img.setPixelRGBA(x, y, pixels.get());
+                }
+            }
+            return img;
+        } catch (IOException e) {
+            TidyMods.LOG.debug("Failed to read cached thumbnail {}", file);
+            return null;
+        }
+    }
+
+    static void write(Key key, NativeImage img) {
+        int w = img.getWidth();
+        int h = img.getHeight();
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + w * h * 4).order(ByteOrder.LITTLE_ENDIAN);
+
+        buf.putInt(MAGIC)
+                .putLong(key.fileSize())
+                .putLong(key.lastModified())
+                .putInt(key.pathHash())
+                .put((byte) (key.smooth() ? 1 : 0))
+                .putShort((short) w)
+                .putShort((short) h);
+
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                buf.putInt(img.getPixelRGBA(x, y));
+            }
+        }
+        buf.flip();
+
+        Path tmp = null;
+        try {
+            Files.createDirectories(DIR);
+            tmp = Files.createTempFile(DIR, key.fileName(), ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (buf.hasRemaining()) {
+                    channel.write(buf);
+                }
+            }
+
+            Path target = DIR.resolve(key.fileName());
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            TidyMods.LOG.debug("Failed to write cached thumbnail {}", key.fileName());
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    record Key(String fileName, long fileSize, long lastModified, int pathHash, boolean smooth) {}
+}
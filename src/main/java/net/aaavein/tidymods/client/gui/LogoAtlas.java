@@ -0,0 +1,149 @@
+package net.aaavein.tidymods.client.gui;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import com.mojang.blaze3d.platform.TextureUtil;
+import com.mojang.blaze3d.systems.RenderSystem;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.AbstractTexture;
+import net.minecraft.client.renderer.texture.TextureManager;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+
+// Each cell has a one pixel gutter repeating the thumbnail's edge, so linear filtering never samples a neighbour.
+final class LogoAtlas {
+
+    private static final int COLUMNS = 16;
+    private static final int INITIAL_ROWS = 4;
+
+    private final ResourceLocation location;
+    private final int cell;
+    private final boolean smooth;
+    private final Runnable onReset;
+    private final IntArrayList freeSlots = new IntArrayList();
+
+    private int rows = INITIAL_ROWS;
+    private int nextSlot = 0;
+    private Texture texture;
+
+    LogoAtlas(ResourceLocation location, int cell, boolean smooth, Runnable onReset) {
+        this.location = location;
+        this.cell = cell;
+        this.smooth = smooth;
+        this.onReset = onReset;
+        register(new Texture(width(), height()));
+    }
+
+    int cell() {
+        return cell;
+    }
+
+    int width() {
+        return COLUMNS * stride();
+    }
+
+    int height() {
+        return rows * stride();
+    }
+
+    long bytes() {
+        return (long) width() * height() * 4;
+    }
+
+    int u(int slot) {
+        return (slot % COLUMNS) * stride() + 1;
+    }
+
+    int v(int slot) {
+        return (slot / COLUMNS) * stride() + 1;
+    }
+
+    int allocate(long budget) {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.popInt();
+        }
+        if (nextSlot >= COLUMNS * rows) {
+            if (bytes() * 2 > budget || height() * 2 > RenderSystem.maxSupportedTextureSize()) {
+                return -1;
+            }
+            grow();
+        }
+        return nextSlot++;
+    }
+
+    void free(int slot) {
+        freeSlots.add(slot);
+    }
+
+    void upload(int slot, NativeImage img) {
+        int w = Math.min(img.getWidth(), cell);
+        int h = Math.min(img.getHeight(), cell);
+
+        int u = u(slot);
+        int v = v(slot);
+
+        texture.bind();
+        img.upload(0, u, v, 0, 0, w, h, smooth, false, false, false);
+
+        img.upload(0, u - 1, v, 0, 0, 1, h, smooth, false, false, false);
+        img.upload(0, u + w, v, w - 1, 0, 1, h, smooth, false, false, false);
+        img.upload(0, u, v - 1, 0, 0, w, 1, smooth, false, false, false);
+        img.upload(0, u, v + h, 0, h - 1, w, 1, smooth, false, false, false);
+
+        img.upload(0, u - 1, v - 1, 0, 0, 1, 1, smooth, false, false, false);
+        img.upload(0, u + w, v - 1, w - 1, 0, 1, 1, smooth, false, false, false);
+        img.upload(0, u - 1, v + h, 0, h - 1, 1, 1, smooth, false, false, false);
+        img.upload(0, u + w, v + h, w - 1, h - 1, 1, 1, smooth, false, false, false);
+    }
+
+    void close() {
+        texture.releaseId();
+    }
+
+    private int stride() {
+        return cell + 2;
+    }
+
+    private void grow() {
+        int oldHeight = height();
+
+        try (NativeImage copy = new NativeImage(width(), oldHeight, false)) {
+            texture.bind();
+            copy.downloadTexture(0, false);
+
+            rows *= 2;
+            Texture grown = new Texture(width(), height());
+            grown.bind();
+            copy.upload(0, 0, 0, 0, 0, width(), oldHeight, smooth, false, false, false);
+            register(grown);
+        }
+    }
+
+    private void register(Texture next) {
+        texture = next;
+        Minecraft.getInstance().getTextureManager().register(location, next);
+    }
+
+    private final class Texture extends AbstractTexture {
+
+        Texture(int width, int height) {
+            TextureUtil.prepareImage(getId(), width, height);
+        }
+
+        @Override
+        public void load(@NotNull ResourceManager resourceManager) {}
+
+        @Override
+        public void reset(
+                @NotNull TextureManager textureManager,
+                @NotNull ResourceManager resourceManager,
+                @NotNull ResourceLocation path,
+                @NotNull Executor executor
+        ) {
+            onReset.run();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package net.aaavein.tidymods.client.gui;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.aaavein.tidymods.TidyMods;
+import net.aaavein.tidymods.client.ModDataManager;
+import net.aaavein.tidymods.config.TidyModsConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class LogoCache {
+
+    private static final ResourceLocation ATLAS = ResourceLocation.fromNamespaceAndPath(TidyMods.ID, "logo_atlas");
+    private static final ResourceLocation SMOOTH_ATLAS = ResourceLocation.fromNamespaceAndPath(TidyMods.ID, "logo_atlas_smooth");
+    private static final int MAX_THUMBNAIL_SIZE = 128;
+    private static final Map<String, Shared> LOGOS = new LinkedHashMap<>(64, 0.75F, true);
+    private static final Map<String, Shared> BY_SOURCE = new HashMap<>();
+    private static final Long2ObjectMap<Shared> BY_CONTENT = new Long2ObjectOpenHashMap<>();
+
+    @Nullable
+    private static LogoAtlas atlas;
+    @Nullable
+    private static LogoAtlas smoothAtlas;
+    private static int thumbnailSize = 0;
+
+    private LogoCache() {}
+
+    // Changing the size drops every cached logo, since they were decoded for the old one.
+    public static int thumbnailSize() {
+        double scale = Minecraft.getInstance().getWindow().getGuiScale();
+        int size = Math.min(16 * (int) Math.ceil(scale), MAX_THUMBNAIL_SIZE);
+        if (size != thumbnailSize) {
+            clear();
+            thumbnailSize = size;
+        }
+        return size;
+    }
+
+    public static boolean contains(String modId) {
+        return LOGOS.containsKey(modId);
+    }
+
+    @Nullable
+    public static Logo get(String modId) {
+        Shared shared = LOGOS.get(modId);
+        return shared != null ? shared.logo : null;
+    }
+
+    public static ResourceLocation atlasLocation(Logo logo) {
+        return logo.smooth() ? SMOOTH_ATLAS : ATLAS;
+    }
+
+    public static int atlasWidth(Logo logo) {
+        LogoAtlas target = atlas(logo.smooth());
+        return target != null ? target.width() : 1;
+    }
+
+    public static int atlasHeight(Logo logo) {
+        LogoAtlas target = atlas(logo.smooth());
+        return target != null ? target.height() : 1;
+    }
+
+    // Only finds sources that are already uploaded.
+    public static boolean share(String modId, String source, boolean smooth) {
+        Shared shared = BY_SOURCE.get(sourceKey(source, smooth));
+        if (shared == null) return false;
+
+        attach(modId, shared);
+        return true;
+    }
+
+    public static void putMissing(String modId) {
+        Shared previous = LOGOS.put(modId, null);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    public static void put(String modId, String source, boolean smooth, NativeImage img) {
+        try (img) {
+            if (LOGOS.get(modId) != null) return;
+
+            String key = sourceKey(source, smooth);
+            long hash = contentHash(img, smooth);
+            Shared shared = BY_SOURCE.get(key);
+            if (shared == null) {
+                shared = BY_CONTENT.get(hash);
+            }
+            if (shared != null) {
+                attach(modId, shared);
+                return;
+            }
+
+            LogoAtlas target = atlas(smooth);
+            if (target == null) {
+                ResourceLocation location = smooth ? SMOOTH_ATLAS : ATLAS;
+                target = new LogoAtlas(location, Math.max(thumbnailSize, 16), smooth, LogoCache::clear);
+                if (smooth) {
+                    smoothAtlas = target;
+                } else {
+                    atlas = target;
+                }
+            }
+
+            if (img.getWidth() > target.cell() || img.getHeight() > target.cell()) {
+                LOGOS.put(modId, null);
+                return;
+            }
+
+            int slot = allocate(target, smooth);
+            if (slot < 0) {
+                LOGOS.put(modId, null);
+                return;
+            }
+
+            target.upload(slot, img);
+            shared = new Shared(new Logo(
+                    slot,
+                    target.u(slot),
+                    target.v(slot),
+                    Math.min(img.getWidth(), target.cell()),
+                    Math.min(img.getHeight(), target.cell()),
+                    smooth
+            ), key, hash);
+
+            BY_SOURCE.put(key, shared);
+            BY_CONTENT.put(hash, shared);
+            attach(modId, shared);
+        }
+    }
+
+    public static void clear() {
+        if (atlas != null) {
+            atlas.close();
+            atlas = null;
+        }
+        if (smoothAtlas != null) {
+            smoothAtlas.close();
+            smoothAtlas = null;
+        }
+        LOGOS.clear();
+        BY_SOURCE.clear();
+        BY_CONTENT.clear();
+    }
+
+    private static void attach(String modId, Shared shared) {
+        shared.refs++;
+        Shared previous = LOGOS.put(modId, shared);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    private static void release(Shared shared) {
+        if (--shared.refs > 0) return;
+
+        BY_SOURCE.remove(shared.source, shared);
+        BY_CONTENT.remove(shared.hash, shared);
+        LogoAtlas target = atlas(shared.logo.smooth());
+        if (target != null) {
+            target.free(shared.logo.slot());
+        }
+    }
+
+    @Nullable
+    private static LogoAtlas atlas(boolean smooth) {
+        return smooth ? smoothAtlas : atlas;
+    }
+
+    private static long atlasBytes() {
+        return (atlas != null ? atlas.bytes() : 0) + (smoothAtlas != null ? smoothAtlas.bytes() : 0);
+    }
+
+    private static int allocate(LogoAtlas target, boolean smooth) {
+        long budget = TidyModsConfig.logoCacheBudgetBytes() - (atlasBytes() - target.bytes());
+        int slot = target.allocate(budget);
+
+        Iterator<Shared> it = LOGOS.values().iterator();
+        while (slot < 0 && it.hasNext()) {
+            Shared shared = it.next();
+            if (shared == null || shared.logo.smooth() != smooth) continue;
+
+            it.remove();
+            release(shared);
+            slot = target.allocate(budget);
+        }
+
+        if (slot >= 0) {
+            TidyMods.LOG.debug(
+                    "Mod logo atlases at {} KB on the GPU, {} KB of logo pixels held in native memory",
+                    atlasBytes() / 1024,
+                    ModDataManager.logoNativeBytes() / 1024
+            );
+        }
+        return slot;
+    }
+
+    static String sourceKey(String source, boolean smooth) {
+        return smooth ? source + "#smooth" : source;
+    }
+
+    private static long contentHash(NativeImage img, boolean smooth) {
+        long hash = 0xCBF29CE484222325L;
+        hash = (hash ^ (smooth ? 1 : 0)) * 0x100000001B3L;
+        hash = (hash ^ img.getWidth()) * 0x100000001B3L;
+        hash = (hash ^ img.getHeight()) * 0x100000001B3L;
+        for (int y = 0; y < img.getHeight(); y++) {
+            for (int x = 0; x < img.getWidth(); x++) {
+                hash = (hash ^ img.getPixelRGBA(x, y)) * 0x100000001B3L;
+            }
+        }
+        return hash;
+    }
+
+    public record Logo(int slot, int u, int v, int width, int height, boolean smooth) {}
+
+    private static final class Shared {
+
+        final Logo logo;
+        final String source;
+        final long hash;
+        int refs;
+
+        Shared(Logo logo, String source, long hash) {
+            this.logo = logo;
+            this.source = source;
+            this.hash = hash;
+        }
+    }
+}
@@ -32,7 +32,8 @@ public class ModListScreen extends Screen {
 
     private final Screen parent;
     private final HeaderAndFooterLayout layout = new HeaderAndFooterLayout(this, 48, 33);
-    private final ConfigSnapshot configSnapshot = new ConfigSnapshot();
+    private int configVersion = TidyModsConfig.version();
+    private int dataRevision = ModDataManager.revision();
 
     private AutoCompleteEditBox searchBox;
     private ModListWidget list;
@@ -41,7 +42,6 @@ public class ModListScreen extends Screen {
     public ModListScreen(@NotNull Screen parent) {
         super(TITLE);
         this.parent = parent;
-        configSnapshot.capture();
     }
 
     @Override
@@ -64,6 +64,9 @@ public class ModListScreen extends Screen {
         searchBox.setValue(savedSearchQuery);
         addWidget(searchBox);
 
+        if (list != null) {
+            list.releaseLogoLoads();
+        }
         list = addRenderableWidget(new ModListWidget(this, Minecraft.getInstance()));
         list.filter(savedSearchQuery);
         list.setScrollAmount(savedScrollAmount);
@@ -91,7 +94,7 @@ public class ModListScreen extends Screen {
         Set<String> licenses = new HashSet<>();
 
         for (ModData mod : ModDataManager.all()) {
-            if (!TidyModsConfig.isHidden(mod.modId())) {
+            if (!ModDataManager.isHidden(mod.modId())) {
                 displayNames.add(mod.displayName());
                 modIds.add(mod.modId());
                 categories.add(ModDataManager.category(mod.modId()));
@@ -172,24 +175,37 @@ public class ModListScreen extends Screen {
         if (searchBox != null) {
             savedSearchQuery = searchBox.getValue();
         }
+        if (TidyModsConfig.releaseLogosOnClose()) {
+            LogoCache.clear();
+        }
         Minecraft.getInstance().setScreen(parent);
     }
 
     @Override
-    public void tick() {
-        super.tick();
-        if (configSnapshot.hasChanged()) {
-            ModDataManager.reloadCategories();
-            buildSearchSuggestions();
-            if (list != null) {
-                list.refresh();
-            }
-            configSnapshot.capture();
+    public void removed() {
+        if (list != null) {
+            list.releaseLogoLoads();
+        }
+    }
+
+    private void onConfigChanged() {
+        buildSearchSuggestions();
+        if (list != null) {
+            list.invalidateCaches();
+            list.refresh();
         }
     }
 
     @Override
     public void render(@NotNull GuiGraphics gfx, int mx, int my, float pt) {
+        int version = TidyModsConfig.version();
+        int revision = ModDataManager.revision();
+        if (version != configVersion || revision != dataRevision) {
+            configVersion = version;
+            dataRevision = revision;
+            onConfigChanged();
+        }
+
         super.render(gfx, mx, my, pt);
         gfx.drawCenteredString(font, buildTitle(), width / 2, 8, 0xFFFFFF);
         searchBox.render(gfx, mx, my, pt);
@@ -201,56 +217,4 @@ public class ModListScreen extends Screen {
         }
         return TITLE;
     }
-
-    private static class ConfigSnapshot {
-
-        private boolean showIds;
-        private boolean showCount;
-        private boolean configsOnly;
-        private boolean categoryIcons;
-        private boolean librariesAtBottom;
-        private boolean hideConfigButtons;
-        private boolean entryShowVersion;
-        private boolean entryShowAuthors;
-        private boolean tooltipShowAuthors;
-        private boolean tooltipShowDescription;
-        private boolean tooltipShowLicense;
-        private String defaultCategory;
-        private int hiddenHash;
-        private int overridesHash;
-
-        void capture() {
-            showIds = TidyModsConfig.showModIds();
-            showCount = TidyModsConfig.showModCount();
-            configsOnly = TidyModsConfig.configsOnly();
-            categoryIcons = TidyModsConfig.useCategoryIcons();
-            librariesAtBottom = TidyModsConfig.librariesAtBottom();
-            hideConfigButtons = TidyModsConfig.hideConfigButtons();
-            entryShowVersion = TidyModsConfig.entryShowVersion();
-            entryShowAuthors = TidyModsConfig.entryShowAuthors();
-            tooltipShowAuthors = TidyModsConfig.tooltipShowAuthors();
-            tooltipShowDescription = TidyModsConfig.tooltipShowDescription();
-            tooltipShowLicense = TidyModsConfig.tooltipShowLicense();
-            defaultCategory = TidyModsConfig.defaultCategory();
-            hiddenHash = TidyModsConfig.hiddenMods().hashCode();
-            overridesHash = TidyModsConfig.categoryOverrides().hashCode();
-        }
-
-        boolean hasChanged() {
-            return showIds != TidyModsConfig.showModIds()
-                    || showCount != TidyModsConfig.showModCount()
-                    || configsOnly != TidyModsConfig.configsOnly()
-                    || categoryIcons != TidyModsConfig.useCategoryIcons()
-                    || librariesAtBottom != TidyModsConfig.librariesAtBottom()
-                    || hideConfigButtons != TidyModsConfig.hideConfigButtons()
-                    || entryShowVersion != TidyModsConfig.entryShowVersion()
-                    || entryShowAuthors != TidyModsConfig.entryShowAuthors()
-                    || tooltipShowAuthors != TidyModsConfig.tooltipShowAuthors()
-                    || tooltipShowDescription != TidyModsConfig.tooltipShowDescription()
-                    || tooltipShowLicense != TidyModsConfig.tooltipShowLicense()
-                    || !defaultCategory.equals(TidyModsConfig.defaultCategory())
-                    || hiddenHash != TidyModsConfig.hiddenMods().hashCode()
-                    || overridesHash != TidyModsConfig.categoryOverrides().hashCode();
-        }
-    }
-}
\ No newline at end of file
+}
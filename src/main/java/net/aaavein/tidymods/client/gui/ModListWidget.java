@@ -5,6 +5,9 @@ import com.mojang.blaze3d.platform.NativeImage;
 import com.mojang.blaze3d.systems.RenderSystem;
 import net.aaavein.tidymods.client.ModDataManager;
 import net.aaavein.tidymods.client.gui.widget.IconButton;
+import net.aaavein.tidymods.client.search.SearchEntry;
+import net.aaavein.tidymods.client.search.SearchIndex;
+import net.aaavein.tidymods.client.search.SearchQuery;
 import net.aaavein.tidymods.config.TidyModsConfig;
 import net.aaavein.tidymods.data.ModData;
 import net.minecraft.ChatFormatting;
@@ -21,12 +24,12 @@ import net.minecraft.client.gui.narration.NarratedElementType;
 import net.minecraft.client.gui.narration.NarratableEntry;
 import net.minecraft.client.gui.narration.NarrationElementOutput;
 import net.minecraft.client.gui.navigation.FocusNavigationEvent;
-import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.FormattedCharSequence;
+import net.minecraft.util.Mth;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,19 +37,33 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.Entry> {
 
-    private static final Map<String, TextureInfo> TEXTURE_CACHE = new HashMap<>();
     private static final int TOOLTIP_MAX_WIDTH = 200;
+    private static final int UPLOADS_PER_FRAME = 4;
     private static final String LIBRARY_CATEGORY = "library";
 
     private final ModListScreen screen;
-    private String query = "";
+    private final Map<String, ModEntry> modEntries = new HashMap<>();
+    private final Map<String, CategoryEntry> categoryEntries = new HashMap<>();
+    private final Map<String, LogoLoad> logoLoads = new HashMap<>();
+    private final List<IconDraw> icons = new ArrayList<>();
+    private SearchQuery query = SearchQuery.EMPTY;
+    private List<SearchEntry> matched = List.of();
+    @Nullable
+    private SearchIndex matchedIndex;
     private int modCount = 0;
+    private double lastScroll = 0;
+    private int prefetchStamp = 0;
+    private int logoSize = 16;
+    private TidyModsConfig.Display display = TidyModsConfig.display();
 
     public ModListWidget(ModListScreen screen, @NotNull Minecraft mc) {
         super(mc, screen.width, screen.height - 64, 48, 24);
@@ -60,8 +77,9 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
     }
 
     public void filter(String text) {
-        query = text.toLowerCase(Locale.ROOT);
-        refresh();
+        SearchQuery previous = query;
+        query = SearchQuery.compile(text);
+        rebuild(query.refines(previous));
     }
 
     public int getModCount() {
@@ -69,44 +87,122 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
     }
 
     public void refresh() {
+        rebuild(false);
+    }
+
+    private void rebuild(boolean narrow) {
         double scroll = getScrollAmount();
-        clearEntries();
-        modCount = 0;
 
-        Map<String, List<ModData>> grouped = groupMods();
+        Map<String, List<ModData>> grouped = groupMods(narrow);
         List<String> sorted = sortCategories(grouped);
+        List<Entry> next = new ArrayList<>();
 
         for (String category : sorted) {
             List<ModData> mods = grouped.get(category);
             if (mods == null || mods.isEmpty()) continue;
 
             mods.sort(Comparator.comparing(ModData::displayName, String.CASE_INSENSITIVE_ORDER));
-            addEntry(new CategoryEntry(Component.translatable("tidymods.category." + category)));
+            next.add(categoryEntries.computeIfAbsent(category, k ->
+                    new CategoryEntry(Component.translatable("tidymods.category." + k))));
 
             for (ModData mod : mods) {
-                addEntry(new ModEntry(mod, category));
+                next.add(modEntry(mod, category));
             }
         }
 
+        reconcile(next);
         setScrollAmount(scroll);
     }
 
-    private Map<String, List<ModData>> groupMods() {
-        Map<String, List<ModData>> grouped = new HashMap<>();
+    public void invalidateCaches() {
+        for (ModEntry entry : modEntries.values()) {
+            entry.invalidate();
+        }
+    }
+
+    private ModEntry modEntry(ModData mod, String category) {
+        ModEntry entry = modEntries.get(mod.modId());
+        if (entry == null || entry.mod != mod || !entry.category.equals(category)) {
+            entry = new ModEntry(mod, category);
+            modEntries.put(mod.modId(), entry);
+        }
+        return entry;
+    }
+
+    private void reconcile(List<Entry> next) {
+        List<Entry> current = children();
+        Set<Entry> keep = Collections.newSetFromMap(new IdentityHashMap<>());
+        keep.addAll(next);
+
+        int i = 0;
+        for (Entry entry : next) {
+            while (i < current.size() && current.get(i) != entry && !keep.contains(current.get(i))) {
+                detach(current.remove(i));
+            }
+            if (i < current.size() && current.get(i) == entry) {
+                i++;
+                continue;
+            }
+            current.add(i++, entry);
+        }
+
+        while (current.size() > i) {
+            Entry removed = current.remove(current.size() - 1);
+            if (!keep.contains(removed)) {
+                detach(removed);
+            }
+        }
+    }
 
-        for (ModData mod : ModDataManager.all()) {
-            if (TidyModsConfig.isHidden(mod.modId())) continue;
-            if (!query.isEmpty() && !matches(mod)) continue;
-            if (TidyModsConfig.configsOnly() && !mod.hasConfig()) continue;
+    private void detach(Entry entry) {
+        if (getSelected() == entry) {
+            setSelected(null);
+        }
+        if (getFocused() == entry) {
+            setFocused(null);
+        }
+    }
 
-            modCount++;
-            String category = ModDataManager.category(mod.modId());
-            grouped.computeIfAbsent(category, k -> new ArrayList<>()).add(mod);
+    private Map<String, List<ModData>> groupMods(boolean narrow) {
+        SearchIndex index = ModDataManager.searchIndex();
+        List<SearchEntry> found = new ArrayList<>();
+
+        if (narrow && index == matchedIndex) {
+            for (SearchEntry entry : matched) {
+                if (query.matches(entry)) found.add(entry);
+            }
+        } else {
+            int[] candidates = query.candidates(index);
+            if (candidates == null) {
+                for (SearchEntry entry : index.entries()) {
+                    if (accepts(entry)) found.add(entry);
+                }
+            } else {
+                for (int ordinal : candidates) {
+                    SearchEntry entry = index.get(ordinal);
+                    if (accepts(entry)) found.add(entry);
+                }
+            }
         }
 
+        matched = found;
+        matchedIndex = index;
+        modCount = found.size();
+
+        Map<String, List<ModData>> grouped = new HashMap<>();
+        for (SearchEntry entry : found) {
+            grouped.computeIfAbsent(entry.category(), k -> new ArrayList<>()).add(entry.mod());
+        }
         return grouped;
     }
 
+    private boolean accepts(SearchEntry entry) {
+        ModData mod = entry.mod();
+        if (ModDataManager.isHidden(mod.modId())) return false;
+        if (!query.matches(entry)) return false;
+        return !TidyModsConfig.configsOnly() || mod.hasConfig();
+    }
+
     private List<String> sortCategories(Map<String, List<ModData>> grouped) {
         String defaultCategory = TidyModsConfig.defaultCategory();
         boolean librariesAtBottom = TidyModsConfig.librariesAtBottom();
@@ -132,111 +228,34 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
         return sorted;
     }
 
-    private boolean matches(ModData mod) {
-        if (query.isEmpty()) {
-            return true;
-        }
-
-        List<ParsedFilter> filters = parseFilters(query);
-
-        for (ParsedFilter filter : filters) {
-            if (!matchesSingleFilter(mod, filter)) {
-                return false;
-            }
-        }
-
-        return true;
+    @Override
+    public void renderWidget(@NotNull GuiGraphics gfx, int mx, int my, float pt) {
+        display = TidyModsConfig.display();
+        ModDataManager.uploadPending(UPLOADS_PER_FRAME);
+        prefetchLogos();
+        super.renderWidget(gfx, mx, my, pt);
     }
 
-    private List<ParsedFilter> parseFilters(String text) {
-        List<ParsedFilter> filters = new ArrayList<>();
-        int i = 0;
-
-        while (i < text.length()) {
-            while (i < text.length() && text.charAt(i) == ' ') {
-                i++;
-            }
-            if (i >= text.length()) {
-                break;
-            }
-
-            char firstChar = text.charAt(i);
-
-            if (isFilterPrefix(firstChar)) {
-                i++;
-                String value;
-
-                if (i < text.length() && text.charAt(i) == '"') {
-                    i++;
-                    int start = i;
-                    while (i < text.length() && text.charAt(i) != '"') {
-                        i++;
-                    }
-                    value = text.substring(start, i);
-                    if (i < text.length()) {
-                        i++;
-                    }
-                } else {
-                    int start = i;
-                    while (i < text.length() && text.charAt(i) != ' ') {
-                        i++;
-                    }
-                    value = text.substring(start, i);
-                }
-
-                filters.add(new ParsedFilter(firstChar, value.toLowerCase(Locale.ROOT)));
-            } else {
-                String value;
-
-                if (firstChar == '"') {
-                    i++;
-                    int start = i;
-                    while (i < text.length() && text.charAt(i) != '"') {
-                        i++;
-                    }
-                    value = text.substring(start, i);
-                    if (i < text.length()) {
-                        i++;
-                    }
-                } else {
-                    int start = i;
-                    while (i < text.length() && text.charAt(i) != ' ') {
-                        i++;
-                    }
-                    value = text.substring(start, i);
-                }
-
-                filters.add(new ParsedFilter('\0', value.toLowerCase(Locale.ROOT)));
-            }
-        }
-
-        return filters;
+    @Override
+    protected void renderListItems(@NotNull GuiGraphics gfx, int mx, int my, float pt) {
+        super.renderListItems(gfx, mx, my, pt);
+        flushIcons(gfx);
     }
 
-    private boolean matchesSingleFilter(ModData mod, ParsedFilter filter) {
-        if (filter.value.isEmpty()) {
-            return true;
-        }
-
-        return switch (filter.type) {
-            case '#' -> ModDataManager.category(mod.modId()).toLowerCase(Locale.ROOT).contains(filter.value);
-            case '@' -> mod.modId().toLowerCase(Locale.ROOT).contains(filter.value);
-            case '!' -> {
-                String authors = mod.authors();
-                yield authors != null && authors.toLowerCase(Locale.ROOT).contains(filter.value);
-            }
-            case '$' -> {
-                String license = mod.license();
-                yield license != null && license.toLowerCase(Locale.ROOT).contains(filter.value);
-            }
-            default -> mod.displayName().toLowerCase(Locale.ROOT).contains(filter.value);
-        };
+    private void queueIcon(ResourceLocation loc, int x, int y, int u, int v, int w, int h, int texW, int texH) {
+        icons.add(new IconDraw(loc, x, y, u, v, w, h, texW, texH));
     }
 
-    private record ParsedFilter(char type, String value) {}
+    private void flushIcons(GuiGraphics gfx) {
+        if (icons.isEmpty()) return;
 
-    private boolean isFilterPrefix(char c) {
-        return c == '#' || c == '@' || c == '!' || c == '$';
+        RenderSystem.setShaderColor(1, 1, 1, 1);
+        RenderSystem.enableBlend();
+        for (IconDraw icon : icons) {
+            gfx.blit(icon.loc, icon.x, icon.y, 16, 16, icon.u, icon.v, icon.w, icon.h, icon.texW, icon.texH);
+        }
+        RenderSystem.disableBlend();
+        icons.clear();
     }
 
     @Override
@@ -310,6 +329,23 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
         private final Button webBtn;
         private final Button issuesBtn;
 
+        @Nullable
+        private FormattedCharSequence displayText;
+        private int displayWidth;
+        @Nullable
+        private TidyModsConfig.Display displayOptions;
+        private String displayLanguage = "";
+
+        @Nullable
+        private List<FormattedCharSequence> tooltipLines;
+        @Nullable
+        private TidyModsConfig.Display tooltipOptions;
+        private String tooltipLanguage = "";
+
+        @Nullable
+        private LogoLoad logoLoad;
+        private int prefetchStamp;
+
         public ModEntry(ModData mod, String category) {
             this.mod = mod;
             this.category = category;
@@ -368,7 +404,7 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
             int scrollbarX = getScrollbarPosition();
             int y = top + 2;
 
-            boolean hideConfig = TidyModsConfig.hideConfigButtons();
+            boolean hideConfig = display.hideConfigButtons();
 
             int issuesX = scrollbarX - 30;
             issuesBtn.setPosition(issuesX, y);
@@ -388,14 +424,13 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
                 buttonsEndX = configX;
             }
 
-            renderIcon(gfx, left, top + (h - 16) / 2);
+            renderIcon(left, top + (h - 16) / 2);
 
             int textX = left + 24;
             int textY = top + h / 2 - 4;
             int maxWidth = buttonsEndX - textX - 8;
 
-            FormattedCharSequence text = buildDisplayText(maxWidth, font).getVisualOrderText();
-            gfx.drawString(font, text, textX, textY, 0xFFFFFF);
+            gfx.drawString(font, displayText(maxWidth, font), textX, textY, 0xFFFFFF);
 
             if (hover && mx < buttonsEndX - 4 && !isOverButton(mx, my)) {
                 renderTooltip(gfx, mx, my);
@@ -403,7 +438,7 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
         }
 
         private boolean isOverButton(int mx, int my) {
-            if (TidyModsConfig.hideConfigButtons()) {
+            if (display.hideConfigButtons()) {
                 return webBtn.isMouseOver(mx, my) || issuesBtn.isMouseOver(mx, my);
             }
             return configBtn.isMouseOver(mx, my)
@@ -412,7 +447,20 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
         }
 
         private void renderTooltip(GuiGraphics gfx, int mx, int my) {
+            String language = minecraft.getLanguageManager().getSelected();
+
+            if (tooltipLines == null || tooltipOptions != display || !tooltipLanguage.equals(language)) {
+                tooltipLines = buildTooltipLines();
+                tooltipOptions = display;
+                tooltipLanguage = language;
+            }
 
+            if (!tooltipLines.isEmpty()) {
+                gfx.renderTooltip(minecraft.font, tooltipLines, mx, my);
+            }
+        }
+
+        private List<FormattedCharSequence> buildTooltipLines() {
             MutableComponent title = Component.literal(mod.displayName())
                     .withStyle(ChatFormatting.BOLD, ChatFormatting.WHITE);
 
@@ -424,7 +472,7 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
 
             List<FormattedCharSequence> lines = new ArrayList<>(minecraft.font.split(title, TOOLTIP_MAX_WIDTH));
 
-            if (TidyModsConfig.tooltipShowAuthors()) {
+            if (display.tooltipShowAuthors()) {
                 String authors = mod.authors();
                 if (authors != null && !authors.isEmpty()) {
                     lines.add(FormattedCharSequence.EMPTY);
@@ -436,7 +484,7 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
                 }
             }
 
-            if (TidyModsConfig.tooltipShowDescription()) {
+            if (display.tooltipShowDescription()) {
                 String description = getDescription();
                 if (description != null && !description.isBlank()) {
                     lines.add(FormattedCharSequence.EMPTY);
@@ -447,7 +495,7 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
                 }
             }
 
-            if (TidyModsConfig.tooltipShowLicense()) {
+            if (display.tooltipShowLicense()) {
                 String license = mod.license();
                 if (license != null && !license.isEmpty()) {
                     lines.add(FormattedCharSequence.EMPTY);
@@ -459,9 +507,12 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
                 }
             }
 
-            if (!lines.isEmpty()) {
-                gfx.renderTooltip(minecraft.font, lines, mx, my);
-            }
+            return List.copyOf(lines);
+        }
+
+        private void invalidate() {
+            displayText = null;
+            tooltipLines = null;
         }
 
         @Nullable
@@ -473,14 +524,30 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
             return mod.description();
         }
 
+        private FormattedCharSequence displayText(int maxWidth, Font font) {
+            String language = minecraft.getLanguageManager().getSelected();
+
+            if (displayText == null
+                    || displayWidth != maxWidth
+                    || displayOptions != display
+                    || !displayLanguage.equals(language)) {
+                displayText = buildDisplayText(maxWidth, font).getVisualOrderText();
+                displayWidth = maxWidth;
+                displayOptions = display;
+                displayLanguage = language;
+            }
+
+            return displayText;
+        }
+
         private Component buildDisplayText(int maxWidth, Font font) {
-            String name = TidyModsConfig.showModIds() ? mod.modId() : mod.displayName();
+            String name = display.showModIds() ? mod.modId() : mod.displayName();
             if (name == null || name.isEmpty()) {
                 name = mod.modId();
             }
 
-            boolean showVersion = TidyModsConfig.entryShowVersion();
-            boolean showAuthors = TidyModsConfig.entryShowAuthors();
+            boolean showVersion = display.entryShowVersion();
+            boolean showAuthors = display.entryShowAuthors();
 
             String version = showVersion ? mod.version() : null;
             String authors = showAuthors ? mod.authors() : null;
@@ -547,42 +614,39 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
             return truncated.append(Component.literal("...").withStyle(ChatFormatting.GRAY));
         }
 
-        private void renderIcon(GuiGraphics gfx, int x, int y) {
-            if (TidyModsConfig.useCategoryIcons()) {
-                ResourceLocation categoryIcon = TidyModsConfig.categoryIcon(category);
+        private void renderIcon(int x, int y) {
+            if (display.useCategoryIcons()) {
+                ResourceLocation categoryIcon = display.categoryIcons().get(category);
                 if (categoryIcon == null) {
-                    categoryIcon = TidyModsConfig.categoryIcon("uncategorized");
+                    categoryIcon = display.categoryIcons().get("uncategorized");
                 }
                 if (categoryIcon != null) {
-                    blitIcon(gfx, categoryIcon, x, y, 16, 16);
+                    queueIcon(categoryIcon, x, y, 0, 0, 16, 16, 16, 16);
                     return;
                 }
             }
 
-            cacheTexture(mod);
-            TextureInfo info = TEXTURE_CACHE.get(mod.modId());
-            if (info != null) {
-                blitIcon(gfx, info.loc, x, y, info.w, info.h);
+            requestLogo(this);
+            LogoCache.Logo logo = LogoCache.get(mod.modId());
+            if (logo != null) {
+                queueIcon(
+                        LogoCache.atlasLocation(logo), x, y,
+                        logo.u(), logo.v(), logo.width(), logo.height(),
+                        LogoCache.atlasWidth(logo), LogoCache.atlasHeight(logo)
+                );
                 return;
             }
 
-            ResourceLocation defaultIcon = TidyModsConfig.defaultModIcon();
+            ResourceLocation defaultIcon = display.defaultModIcon();
             if (defaultIcon != null) {
-                blitIcon(gfx, defaultIcon, x, y, 16, 16);
+                queueIcon(defaultIcon, x, y, 0, 0, 16, 16, 16, 16);
             }
         }
 
-        private void blitIcon(GuiGraphics gfx, ResourceLocation loc, int x, int y, int w, int h) {
-            RenderSystem.setShaderColor(1, 1, 1, 1);
-            RenderSystem.enableBlend();
-            gfx.blit(loc, x, y, 16, 16, 0, 0, w, h, w, h);
-            RenderSystem.disableBlend();
-        }
-
         @Override
         @NotNull
         public List<? extends GuiEventListener> children() {
-            if (TidyModsConfig.hideConfigButtons()) {
+            if (display.hideConfigButtons()) {
                 return ImmutableList.of(webBtn, issuesBtn);
             }
             return ImmutableList.of(configBtn, webBtn, issuesBtn);
@@ -591,37 +655,148 @@ public class ModListWidget extends ContainerObjectSelectionList<ModListWidget.En
         @Override
         @NotNull
         public List<? extends NarratableEntry> narratables() {
-            if (TidyModsConfig.hideConfigButtons()) {
+            if (display.hideConfigButtons()) {
                 return ImmutableList.of(webBtn, issuesBtn);
             }
             return ImmutableList.of(configBtn, webBtn, issuesBtn);
         }
     }
 
-    private void cacheTexture(ModData mod) {
-        if (TEXTURE_CACHE.containsKey(mod.modId())) return;
-        TEXTURE_CACHE.put(mod.modId(), null);
+    private void prefetchLogos() {
+        List<Entry> rows = children();
+        if (rows.isEmpty() || display.useCategoryIcons()) return;
+
+        double scroll = getScrollAmount();
+        double delta = scroll - lastScroll;
+        lastScroll = scroll;
+
+        int first = Mth.clamp((int) (scroll / itemHeight), 0, rows.size() - 1);
+        int last = Math.min(rows.size() - 1, first + height / itemHeight + 1);
+
+        int window = TidyModsConfig.logoPrefetchRows();
+        int boost = Math.min(window, (int) Math.ceil(Math.abs(delta) / itemHeight) * 2);
+        int below = delta < 0 ? window / 2 : window + (delta > 0 ? boost : 0);
+        int above = delta > 0 ? window / 2 : window + (delta < 0 ? boost : 0);
+
+        prefetchStamp++;
+        int size = LogoCache.thumbnailSize();
+        if (size != logoSize) {
+            cancelLogoLoads();
+            logoSize = size;
+        }
+
+        for (int i = first; i <= last; i++) {
+            requestLogo(rows.get(i));
+        }
+
+        for (int d = 1; d <= Math.max(above, below); d++) {
+            if (d <= below && last + d < rows.size()) {
+                requestLogo(rows.get(last + d));
+            }
+            if (d <= above && first - d >= 0) {
+                requestLogo(rows.get(first - d));
+            }
+        }
+
+        Iterator<LogoLoad> it = logoLoads.values().iterator();
+        while (it.hasNext()) {
+            LogoLoad load = it.next();
+            if (!load.wanted(prefetchStamp) && load.future.cancel(false)) {
+                load.detach();
+                it.remove();
+            }
+        }
+    }
+
+    public void releaseLogoLoads() {
+        cancelLogoLoads();
+        ModDataManager.discardPendingUploads();
+    }
+
+    private void cancelLogoLoads() {
+        Iterator<LogoLoad> it = logoLoads.values().iterator();
+        while (it.hasNext()) {
+            LogoLoad load = it.next();
+            if (load.future.cancel(false)) {
+                load.detach();
+                it.remove();
+            }
+        }
+    }
+
+    private void requestLogo(Entry row) {
+        if (!(row instanceof ModEntry entry)) return;
+        entry.prefetchStamp = prefetchStamp;
+
+        ModData mod = entry.mod;
+        if (entry.logoLoad != null || LogoCache.contains(mod.modId())) return;
 
         String path = mod.logoFile();
-        if (path == null || path.isEmpty()) return;
+        if (path == null || path.isEmpty()) {
+            LogoCache.putMissing(mod.modId());
+            return;
+        }
 
-        ModDataManager.loadImage(mod.modId(), path, img -> {
-            DynamicTexture texture = new DynamicTexture(img) {
-                @Override
-                public void upload() {
-                    bind();
-                    NativeImage pixels = getPixels();
-                    if (pixels != null) {
-                        pixels.upload(0, 0, 0, 0, 0,
-                                pixels.getWidth(), pixels.getHeight(),
-                                mod.smoothLogo(), false, false, false);
-                    }
+        String source = ModDataManager.logoSource(mod.modId(), path);
+        boolean smooth = mod.smoothLogo();
+        if (LogoCache.share(mod.modId(), source, smooth)) return;
+
+        String key = LogoCache.sourceKey(source, smooth);
+        LogoLoad load = logoLoads.get(key);
+        if (load == null) {
+            int size = logoSize;
+            LogoLoad started = new LogoLoad();
+            started.future = ModDataManager.loadImage(mod.modId(), path, size, smooth, img -> {
+                logoLoads.remove(key, started);
+                started.detach();
+                if (size != logoSize) {
+                    if (img != null) img.close();
+                } else {
+                    finishLogo(started, source, smooth, img);
                 }
-            };
-            ResourceLocation loc = minecraft.getTextureManager().register("tidymods_icon", texture);
-            TEXTURE_CACHE.put(mod.modId(), new TextureInfo(loc, img.getWidth(), img.getHeight()));
-        });
+            });
+            logoLoads.put(key, started);
+            load = started;
+        }
+        load.waiters.add(entry);
+        entry.logoLoad = load;
+    }
+
+    private void finishLogo(LogoLoad load, String source, boolean smooth, @Nullable NativeImage img) {
+        if (img == null) {
+            for (ModEntry waiter : load.waiters) {
+                LogoCache.putMissing(waiter.mod.modId());
+            }
+            return;
+        }
+
+        LogoCache.put(load.waiters.get(0).mod.modId(), source, smooth, img);
+        for (int i = 1; i < load.waiters.size(); i++) {
+            String modId = load.waiters.get(i).mod.modId();
+            if (!LogoCache.share(modId, source, smooth)) {
+                LogoCache.putMissing(modId);
+            }
+        }
+    }
+
+    private static final class LogoLoad {
+
+        final List<ModEntry> waiters = new ArrayList<>(1);
+        CompletableFuture<NativeImage> future;
+
+        boolean wanted(int stamp) {
+            for (ModEntry waiter : waiters) {
+                if (waiter.prefetchStamp == stamp) return true;
+            }
+            return false;
+        }
+
+        void detach() {
+            for (ModEntry waiter : waiters) {
+                waiter.logoLoad = null;
+            }
+        }
     }
 
-    private record TextureInfo(ResourceLocation loc, int w, int h) {}
-}
\ No newline at end of file
+    private record IconDraw(ResourceLocation loc, int x, int y, int u, int v, int w, int h, int texW, int texH) {}
+}
@@ -1,5 +1,6 @@
 package net.aaavein.tidymods.client.gui.widget;
 
+import net.aaavein.tidymods.client.search.SearchQuery;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.EditBox;
@@ -79,67 +80,31 @@ public class AutoCompleteEditBox extends EditBox {
         int[] colors = new int[text.length()];
         Arrays.fill(colors, DEFAULT_TEXT_COLOR);
 
-        int i = 0;
-        while (i < text.length()) {
-            if (text.charAt(i) == ' ') {
-                colors[i] = DEFAULT_TEXT_COLOR;
-                i++;
-                continue;
-            }
-
-            char firstChar = text.charAt(i);
-
-            if (isFilterPrefix(firstChar)) {
-                int filterColor = getFilterColor(firstChar);
-                colors[i] = filterColor;
-                i++;
-
-                if (i < text.length() && text.charAt(i) == '"') {
-                    do {
-                        colors[i] = filterColor;
-                        i++;
-                    } while (i < text.length() && text.charAt(i) != '"');
-                    if (i < text.length()) {
-                        colors[i] = filterColor;
-                        i++;
-                    }
-                } else {
-                    while (i < text.length() && text.charAt(i) != ' ') {
-                        colors[i] = filterColor;
-                        i++;
-                    }
-                }
-            } else {
-                while (i < text.length() && text.charAt(i) != ' ') {
-                    colors[i] = DEFAULT_TEXT_COLOR;
-                    i++;
-                }
+        for (SearchQuery.Token token : SearchQuery.tokenize(text)) {
+            if (token.type() != SearchQuery.NAME) {
+                Arrays.fill(colors, token.start(), token.end(), getFilterColor(token.type()));
             }
         }
 
         return colors;
     }
 
-    private boolean isFilterPrefix(char c) {
-        return c == '#' || c == '@' || c == '!' || c == '$';
-    }
-
     private int getFilterColor(char prefix) {
         return switch (prefix) {
-            case '#' -> CATEGORY_TEXT_COLOR;
-            case '@' -> MODID_TEXT_COLOR;
-            case '!' -> AUTHOR_TEXT_COLOR;
-            case '$' -> LICENSE_TEXT_COLOR;
+            case SearchQuery.CATEGORY -> CATEGORY_TEXT_COLOR;
+            case SearchQuery.MOD_ID -> MODID_TEXT_COLOR;
+            case SearchQuery.AUTHOR -> AUTHOR_TEXT_COLOR;
+            case SearchQuery.LICENSE -> LICENSE_TEXT_COLOR;
             default -> DEFAULT_TEXT_COLOR;
         };
     }
 
     private int getFilterSuggestionColor(char prefix) {
         return switch (prefix) {
-            case '#' -> CATEGORY_SUGGESTION_COLOR;
-            case '@' -> MODID_SUGGESTION_COLOR;
-            case '!' -> AUTHOR_SUGGESTION_COLOR;
-            case '$' -> LICENSE_SUGGESTION_COLOR;
+            case SearchQuery.CATEGORY -> CATEGORY_SUGGESTION_COLOR;
+            case SearchQuery.MOD_ID -> MODID_SUGGESTION_COLOR;
+            case SearchQuery.AUTHOR -> AUTHOR_SUGGESTION_COLOR;
+            case SearchQuery.LICENSE -> LICENSE_SUGGESTION_COLOR;
             default -> DEFAULT_SUGGESTION_COLOR;
         };
     }
@@ -156,7 +121,7 @@ public class AutoCompleteEditBox extends EditBox {
         }
 
         char firstChar = currentToken.charAt(0);
-        if (isFilterPrefix(firstChar)) {
+        if (SearchQuery.isFilterPrefix(firstChar)) {
             return getFilterSuggestionColor(firstChar);
         }
 
@@ -209,7 +174,7 @@ public class AutoCompleteEditBox extends EditBox {
         }
 
         char firstChar = currentToken.charAt(0);
-        boolean isFilter = isFilterPrefix(firstChar);
+        boolean isFilter = SearchQuery.isFilterPrefix(firstChar);
 
         String searchPart;
         boolean isQuoted = false;
@@ -252,7 +217,7 @@ public class AutoCompleteEditBox extends EditBox {
                     return;
                 }
             } else {
-                if (isFilterPrefix(candFirst)) {
+                if (SearchQuery.isFilterPrefix(candFirst)) {
                     continue;
                 }
 
@@ -272,7 +237,7 @@ public class AutoCompleteEditBox extends EditBox {
             String currentValue = getValue();
             String currentToken = getCurrentToken(currentValue);
 
-            if (!currentToken.isEmpty() && isFilterPrefix(currentToken.charAt(0))) {
+            if (!currentToken.isEmpty() && SearchQuery.isFilterPrefix(currentToken.charAt(0))) {
                 boolean isAlreadyQuoted = currentToken.length() > 1 && currentToken.charAt(1) == '"';
 
                 if (!isAlreadyQuoted) {
@@ -0,0 +1,33 @@
+package net.aaavein.tidymods.client.search;
+
+import net.aaavein.tidymods.data.ModData;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+public record SearchEntry(
+        ModData mod,
+        String category,
+        String name,
+        String id,
+        String authors,
+        String license,
+        String description
+) {
+
+    public static SearchEntry of(ModData mod, String category) {
+        return new SearchEntry(
+                mod,
+                category,
+                lower(mod.displayName()),
+                lower(mod.modId()),
+                lower(mod.authors()),
+                lower(mod.license()),
+                lower(mod.description())
+        );
+    }
+
+    private static String lower(@Nullable String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,133 @@
+package net.aaavein.tidymods.client.search;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+public final class SearchIndex {
+
+    public static final SearchIndex EMPTY = new SearchIndex(List.of());
+
+    private static final int GRAM = 3;
+    private static final int[] NONE = new int[0];
+
+    private final List<SearchEntry> entries;
+    private final FieldIndex names;
+    private final FieldIndex ids;
+    private final FieldIndex authors;
+    private final FieldIndex licenses;
+    private final FieldIndex categories;
+
+    public SearchIndex(List<SearchEntry> entries) {
+        this.entries = List.copyOf(entries);
+        this.names = new FieldIndex(this.entries, SearchEntry::name);
+        this.ids = new FieldIndex(this.entries, SearchEntry::id);
+        this.authors = new FieldIndex(this.entries, SearchEntry::authors);
+        this.licenses = new FieldIndex(this.entries, SearchEntry::license);
+        this.categories = new FieldIndex(this.entries, SearchEntry::category);
+    }
+
+    public List<SearchEntry> entries() {
+        return entries;
+    }
+
+    public SearchEntry get(int ordinal) {
+        return entries.get(ordinal);
+    }
+
+    // Null when the value is too short to narrow the search.
+    @Nullable
+    int[] candidates(char type, String value) {
+        if (value.length() < GRAM) {
+            return null;
+        }
+
+        FieldIndex field = switch (type) {
+            case SearchQuery.CATEGORY -> categories;
+            case SearchQuery.MOD_ID -> ids;
+            case SearchQuery.AUTHOR -> authors;
+            case SearchQuery.LICENSE -> licenses;
+            default -> names;
+        };
+
+        return field.candidates(value);
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static long gram(String text, int i) {
+        return ((long) text.charAt(i) << 32)
+                | ((long) text.charAt(i + 1) << 16)
+                | text.charAt(i + 2);
+    }
+
+    private static final class FieldIndex {
+
+        private final Long2ObjectOpenHashMap<int[]> postings = new Long2ObjectOpenHashMap<>();
+
+        FieldIndex(List<SearchEntry> entries, Function<SearchEntry, String> field) {
+            Long2ObjectOpenHashMap<IntArrayList> building = new Long2ObjectOpenHashMap<>();
+
+            for (int ordinal = 0; ordinal < entries.size(); ordinal++) {
+                String text = field.apply(entries.get(ordinal));
+                for (int i = 0; i + GRAM <= text.length(); i++) {
+                    long key = gram(text, i);
+                    IntArrayList list = building.get(key);
+                    if (list == null) {
+                        list = new IntArrayList();
+                        building.put(key, list);
+                    }
+                    if (list.isEmpty() || list.getInt(list.size() - 1) != ordinal) {
+                        list.add(ordinal);
+                    }
+                }
+            }
+
+            for (Long2ObjectMap.Entry<IntArrayList> entry : building.long2ObjectEntrySet()) {
+                postings.put(entry.getLongKey(), entry.getValue().toIntArray());
+            }
+            postings.trim();
+        }
+
+        int[] candidates(String value) {
+            int[] result = null;
+
+            for (int i = 0; i + GRAM <= value.length(); i++) {
+                int[] posting = postings.get(gram(value, i));
+                if (posting == null) {
+                    return NONE;
+                }
+                result = result == null ? posting : intersect(result, posting);
+                if (result.length == 0) {
+                    break;
+                }
+            }
+
+            return result;
+        }
+    }
+}
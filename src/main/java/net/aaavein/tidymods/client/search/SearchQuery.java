@@ -0,0 +1,151 @@
+package net.aaavein.tidymods.client.search;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class SearchQuery {
+
+    public static final char NAME = '\0';
+    public static final char CATEGORY = '#';
+    public static final char MOD_ID = '@';
+    public static final char AUTHOR = '!';
+    public static final char LICENSE = '$';
+
+    public static final SearchQuery EMPTY = new SearchQuery(new Term[0]);
+
+    private final Term[] terms;
+
+    private SearchQuery(Term[] terms) {
+        this.terms = terms;
+    }
+
+    public static SearchQuery compile(String text) {
+        List<Token> tokens = tokenize(text);
+        List<Term> terms = new ArrayList<>(tokens.size());
+
+        for (Token token : tokens) {
+            if (!token.value().isEmpty()) {
+                terms.add(new Term(token.type(), token.value().toLowerCase(Locale.ROOT)));
+            }
+        }
+
+        return terms.isEmpty() ? EMPTY : new SearchQuery(terms.toArray(new Term[0]));
+    }
+
+    public static List<Token> tokenize(String text) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+
+        while (i < text.length()) {
+            while (i < text.length() && text.charAt(i) == ' ') {
+                i++;
+            }
+            if (i >= text.length()) {
+                break;
+            }
+
+            int tokenStart = i;
+            char type = NAME;
+
+            if (isFilterPrefix(text.charAt(i))) {
+                type = text.charAt(i);
+                i++;
+            }
+
+            String value;
+
+            if (i < text.length() && text.charAt(i) == '"') {
+                i++;
+                int start = i;
+                while (i < text.length() && text.charAt(i) != '"') {
+                    i++;
+                }
+                value = text.substring(start, i);
+                if (i < text.length()) {
+                    i++;
+                }
+            } else {
+                int start = i;
+                while (i < text.length() && text.charAt(i) != ' ') {
+                    i++;
+                }
+                value = text.substring(start, i);
+            }
+
+            tokens.add(new Token(type, value, tokenStart, i));
+        }
+
+        return tokens;
+    }
+
+    public static boolean isFilterPrefix(char c) {
+        return c == CATEGORY || c == MOD_ID || c == AUTHOR || c == LICENSE;
+    }
+
+    public boolean isEmpty() {
+        return terms.length == 0;
+    }
+
+    public boolean matches(SearchEntry entry) {
+        for (Term term : terms) {
+            if (!term.matches(entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // True when every match of this query also matches previous, so the old result can be narrowed.
+    public boolean refines(SearchQuery previous) {
+        if (previous.terms.length > terms.length) {
+            return false;
+        }
+
+        for (int i = 0; i < previous.terms.length; i++) {
+            Term before = previous.terms[i];
+            Term after = terms[i];
+            if (before.type() != after.type() || !after.value().contains(before.value())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Null when no term is long enough to narrow the search.
+    @Nullable
+    public int[] candidates(SearchIndex index) {
+        int[] result = null;
+
+        for (Term term : terms) {
+            int[] found = index.candidates(term.type(), term.value());
+            if (found == null) {
+                continue;
+            }
+            result = result == null ? found : SearchIndex.intersect(result, found);
+            if (result.length == 0) {
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    public record Token(char type, String value, int start, int end) {}
+
+    private record Term(char type, String value) {
+
+        boolean matches(SearchEntry entry) {
+            return switch (type) {
+                case CATEGORY -> entry.category().contains(value);
+                case MOD_ID -> entry.id().contains(value);
+                case AUTHOR -> entry.authors().contains(value);
+                case LICENSE -> entry.license().contains(value);
+                default -> entry.name().contains(value);
+            };
+        }
+    }
+}
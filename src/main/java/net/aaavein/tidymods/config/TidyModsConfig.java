@@ -3,22 +3,23 @@ package net.aaavein.tidymods.config;
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.neoforge.common.ModConfigSpec;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class TidyModsConfig {
 
     public static final ModConfigSpec SPEC;
     private static final Config CONFIG;
 
-    private static final Map<String, ResourceLocation> ICON_CACHE = new HashMap<>();
-    private static final Set<String> HIDDEN_CACHE = new HashSet<>();
-    private static ResourceLocation defaultIconCache = null;
-    private static boolean cacheValid = false;
+    private static volatile Snapshot snapshot;
+
+    private static final List<Runnable> LISTENERS = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger VERSION = new AtomicInteger();
 
     static {
         Pair<Config, ModConfigSpec> pair = new ModConfigSpec.Builder().configure(Config::new);
@@ -29,121 +30,161 @@ public final class TidyModsConfig {
     private TidyModsConfig() {}
 
     public static boolean hideRealmsButton() {
-        return CONFIG.hideRealmsButton.get();
+        return snapshot().hideRealmsButton();
     }
 
     public static boolean showModCount() {
-        return CONFIG.showModCount.get();
+        return snapshot().showModCount();
     }
 
-    public static boolean showModIds() {
-        return CONFIG.showModIds.get();
+    public static boolean configsOnly() {
+        return snapshot().configsOnly();
     }
 
-    public static boolean entryShowVersion() {
-        return CONFIG.entryShowVersion.get();
+    public static List<? extends String> hiddenMods() {
+        return snapshot().hiddenMods();
     }
 
-    public static boolean entryShowAuthors() {
-        return CONFIG.entryShowAuthors.get();
+    public static String defaultCategory() {
+        return snapshot().defaultCategory();
     }
 
-    public static boolean hideConfigButtons() {
-        return CONFIG.hideConfigButtons.get();
+    public static boolean librariesAtBottom() {
+        return snapshot().librariesAtBottom();
     }
 
-    public static boolean tooltipShowAuthors() {
-        return CONFIG.tooltipShowAuthors.get();
+    public static List<? extends String> categoryOverrides() {
+        return snapshot().categoryOverrides();
     }
 
-    public static boolean tooltipShowDescription() {
-        return CONFIG.tooltipShowDescription.get();
+    // A new instance is only created on reload, so callers compare it by identity.
+    public static Display display() {
+        return snapshot().display();
     }
 
-    public static boolean tooltipShowLicense() {
-        return CONFIG.tooltipShowLicense.get();
+    public static int logoPrefetchRows() {
+        return snapshot().logoPrefetchRows();
     }
 
-    public static boolean configsOnly() {
-        return CONFIG.configsOnly.get();
+    public static long logoCacheBudgetBytes() {
+        return snapshot().logoCacheBudget() * 1024L * 1024L;
     }
 
-    public static List<? extends String> hiddenMods() {
-        return CONFIG.hiddenMods.get();
+    public static boolean releaseLogosOnClose() {
+        return snapshot().releaseLogosOnClose();
     }
 
-    public static boolean isHidden(String modId) {
-        ensureCached();
-        return HIDDEN_CACHE.contains(modId.toLowerCase());
-    }
-
-    public static String defaultCategory() {
-        return CONFIG.defaultCategory.get().toLowerCase();
+    public static boolean printUncategorized() {
+        return snapshot().printUncategorized();
     }
 
-    public static boolean librariesAtBottom() {
-        return CONFIG.librariesAtBottom.get();
+    public static int version() {
+        return VERSION.get();
     }
 
-    public static List<? extends String> categoryOverrides() {
-        return CONFIG.categoryOverrides.get();
+    public static void addListener(Runnable listener) {
+        LISTENERS.add(listener);
     }
 
-    public static boolean useCategoryIcons() {
-        return CONFIG.useCategoryIcons.get();
+    // The version is bumped last, so pollers only see it once listeners have reacted.
+    public static void reload() {
+        capture();
+        for (Runnable listener : LISTENERS) {
+            listener.run();
+        }
+        VERSION.incrementAndGet();
     }
 
-    public static ResourceLocation categoryIcon(String category) {
-        ensureCached();
-        return ICON_CACHE.get(category.toLowerCase());
+    private static void capture() {
+        snapshot = Snapshot.capture(CONFIG);
     }
 
-    public static ResourceLocation defaultModIcon() {
-        ensureCached();
-        return defaultIconCache;
+    private static Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = Snapshot.capture(CONFIG);
+            snapshot = current;
+        }
+        return current;
     }
 
-    public static boolean printUncategorized() {
-        return CONFIG.printUncategorized.get();
+    private static boolean isValidString(Object obj) {
+        return obj instanceof String;
     }
 
-    public static void clearCaches() {
-        cacheValid = false;
+    private static boolean isValidMapping(Object obj) {
+        return obj instanceof String s && s.contains(";");
     }
 
-    private static void ensureCached() {
-        if (cacheValid) return;
-        cacheValid = true;
-
-        ICON_CACHE.clear();
-        for (String entry : CONFIG.categoryIcons.get()) {
-            String[] parts = entry.split(";", 2);
-            if (parts.length == 2) {
-                ResourceLocation loc = ResourceLocation.tryParse(parts[1].trim());
-                if (loc != null) {
-                    ICON_CACHE.put(parts[0].trim().toLowerCase(), loc);
+    private record Snapshot(
+            boolean hideRealmsButton,
+            boolean showModCount,
+            boolean configsOnly,
+            List<? extends String> hiddenMods,
+            String defaultCategory,
+            boolean librariesAtBottom,
+            List<? extends String> categoryOverrides,
+            Display display,
+            int logoPrefetchRows,
+            int logoCacheBudget,
+            boolean releaseLogosOnClose,
+            boolean printUncategorized
+    ) {
+
+        static Snapshot capture(Config config) {
+            Map<String, ResourceLocation> icons = new HashMap<>();
+            for (String entry : config.categoryIcons.get()) {
+                String[] parts = entry.split(";", 2);
+                if (parts.length == 2) {
+                    ResourceLocation loc = ResourceLocation.tryParse(parts[1].trim());
+                    if (loc != null) {
+                        icons.put(parts[0].trim().toLowerCase(), loc);
+                    }
                 }
             }
-        }
 
-        HIDDEN_CACHE.clear();
-        for (String modId : CONFIG.hiddenMods.get()) {
-            String trimmed = modId.trim().toLowerCase();
-            if (!trimmed.isEmpty()) {
-                HIDDEN_CACHE.add(trimmed);
-            }
+            Display display = new Display(
+                    config.showModIds.get(),
+                    config.entryShowVersion.get(),
+                    config.entryShowAuthors.get(),
+                    config.hideConfigButtons.get(),
+                    config.tooltipShowAuthors.get(),
+                    config.tooltipShowDescription.get(),
+                    config.tooltipShowLicense.get(),
+                    config.useCategoryIcons.get(),
+                    Map.copyOf(icons),
+                    ResourceLocation.tryParse(config.defaultModIcon.get())
+            );
+
+            return new Snapshot(
+                    config.hideRealmsButton.get(),
+                    config.showModCount.get(),
+                    config.configsOnly.get(),
+                    List.copyOf(config.hiddenMods.get()),
+                    config.defaultCategory.get().toLowerCase(),
+                    config.librariesAtBottom.get(),
+                    List.copyOf(config.categoryOverrides.get()),
+                    display,
+                    config.logoPrefetchRows.get(),
+                    config.logoCacheBudget.get(),
+                    config.releaseLogosOnClose.get(),
+                    config.printUncategorized.get()
+            );
         }
-
-        defaultIconCache = ResourceLocation.tryParse(CONFIG.defaultModIcon.get());
     }
 
-    private static boolean isValidString(Object obj) {
-        return obj instanceof String;
-    }
-
-    private static boolean isValidMapping(Object obj) {
-        return obj instanceof String s && s.contains(";");
-    }
+    public record Display(
+            boolean showModIds,
+            boolean entryShowVersion,
+            boolean entryShowAuthors,
+            boolean hideConfigButtons,
+            boolean tooltipShowAuthors,
+            boolean tooltipShowDescription,
+            boolean tooltipShowLicense,
+            boolean useCategoryIcons,
+            Map<String, ResourceLocation> categoryIcons,
+            @Nullable ResourceLocation defaultModIcon
+    ) {}
 
     private static class Config {
 
@@ -170,6 +211,9 @@ public final class TidyModsConfig {
         final ModConfigSpec.BooleanValue useCategoryIcons;
         final ModConfigSpec.ConfigValue<List<? extends String>> categoryIcons;
         final ModConfigSpec.ConfigValue<String> defaultModIcon;
+        final ModConfigSpec.IntValue logoPrefetchRows;
+        final ModConfigSpec.IntValue logoCacheBudget;
+        final ModConfigSpec.BooleanValue releaseLogosOnClose;
 
         final ModConfigSpec.BooleanValue printUncategorized;
 
@@ -232,7 +276,7 @@ public final class TidyModsConfig {
             hiddenMods = builder
                     .comment(
                             " List of mod IDs to hide from the mod list.",
-                            " Format: modid"
+                            " Format: modid, use * as a wildcard (e.g. *delight)"
                     )
                     .defineListAllowEmpty(
                             "hidden_mods",
@@ -259,7 +303,7 @@ public final class TidyModsConfig {
             categoryOverrides = builder
                     .comment(
                             " Custom category assignments that override built-in defaults.",
-                            " Format: modid;category"
+                            " Format: modid;category, use * as a wildcard (e.g. create_*;technology)"
                     )
                     .defineListAllowEmpty(
                             "category_overrides",
@@ -306,6 +350,18 @@ public final class TidyModsConfig {
                     .comment(" Fallback texture for mods without an icon. Used when category icons are disabled.")
                     .define("default_mod_icon", "minecraft:textures/misc/unknown_server.png");
 
+            logoPrefetchRows = builder
+                    .comment(" Number of rows above and below the visible list whose mod icons are loaded ahead of time.")
+                    .defineInRange("logo_prefetch_rows", 10, 0, 100);
+
+            logoCacheBudget = builder
+                    .comment(" Maximum estimated texture memory in megabytes used by cached mod icons.")
+                    .defineInRange("logo_cache_budget", 64, 1, 1024);
+
+            releaseLogosOnClose = builder
+                    .comment(" Releases all cached mod icons when the mod list is closed.")
+                    .define("release_logos_on_close", false);
+
             builder.pop();
 
             builder.push("debug");